@@ -0,0 +1,83 @@
+package codealpha_tasks.ChatBot;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// BotBrain.getResponse with the built-in rules (extraIntents = 0) or with
+// that many generated intents loaded from a file, and the time to load and
+// compile those rules.
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BotBrainBench {
+    private static final String[] COMMON = {
+        "hi there", "how are you today?", "what's your name", "tell me about AI",
+        "is java hard to learn", "ok bye", "this sentence matches nothing at all"
+    };
+
+    @Param({"0", "10000"})
+    public int extraIntents;
+
+    File intentsFile;
+    BotBrain brain;
+    String[] messages;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random rand = new Random(42);
+        List<String> keywords = new ArrayList<>();
+        if (extraIntents == 0) {
+            brain = new BotBrain();
+        } else {
+            intentsFile = File.createTempFile("intents", ".txt");
+            intentsFile.deleteOnExit();
+            try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+                    new FileOutputStream(intentsFile), StandardCharsets.UTF_8))) {
+                for (int i = 0; i < extraIntents; i++) {
+                    String keyword = randomWord(rand);
+                    keywords.add(keyword);
+                    writer.println(keyword + " | reply " + i);
+                }
+            }
+            brain = new BotBrain(intentsFile.getPath());
+        }
+
+        messages = new String[1024];
+        for (int i = 0; i < messages.length; i++) {
+            String message = COMMON[rand.nextInt(COMMON.length)];
+            if (!keywords.isEmpty() && rand.nextBoolean()) {
+                message += " " + keywords.get(rand.nextInt(keywords.size()));
+            }
+            messages[i] = message;
+        }
+    }
+
+    @Benchmark
+    public String getResponse() {
+        String message = messages[next];
+        next = (next + 1) & (messages.length - 1);
+        return brain.getResponse(message);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BotBrain compileIntents() throws IOException {
+        return intentsFile == null ? new BotBrain() : new BotBrain(intentsFile.getPath());
+    }
+
+    private static String randomWord(Random rand) {
+        char[] chars = new char[3 + rand.nextInt(6)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + rand.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
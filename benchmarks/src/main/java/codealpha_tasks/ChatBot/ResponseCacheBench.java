@@ -0,0 +1,186 @@
+package codealpha_tasks.ChatBot;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// BotBrain.getResponse with and without ResponseCache on a skewed (Zipf-like)
+// stream of chat messages. The brain has the sample intents.txt rules plus
+// [extraIntents] generated rules. cachedShared runs four threads against one
+// cache, the way ChatServer request threads use it. Setup fails if the cache
+// ever returns a different reply than the brain, or if keywords with symbols
+// ("c++", "c#") match the wrong messages.
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseCacheBench {
+    private static final String[] TEMPLATES = {
+        "hi", "Hello there!", "how are you?", "What's your name", "tell me about AI",
+        "is java hard", "bye", "good morning", "can you help me", "what time is it"
+    };
+
+    // The rules of ChatBot/intents.txt, plus keywords with punctuation
+    private static final String[] SAMPLE_INTENTS = {
+        "hi, hello | Heyyy 👋 What’s up?",
+        "how are you | I’m just code, but I’m vibing 😌",
+        "your name | I’m your friendly Java chatbot 🤖",
+        "ai | AI is about making machines think smart—kinda like me 😎",
+        "java | Java is powerful, portable, and slightly dramatic ☕",
+        "bye | Bye bestie 👋 Come back soon!",
+        "* | Hmm… I’m still learning 🌱 Try asking something else!",
+        "what's up | Not much, you?",
+        "c++ | Pointers everywhere!",
+        "c# | Properties everywhere!",
+        "e-mail | I only do chat, sorry."
+    };
+
+    private static final String[] PUNCTUATION_CASES = {
+        "how-are-you", "how  are you", "what is your\tname", "What's up?", "whats up",
+        "I like C++", "I like C#", "c", "see c here", "send me an e-mail", "e mail",
+        "HI!!!", "this", "said"
+    };
+
+    // Message, expected reply
+    private static final String[][] SYMBOL_CASES = {
+        {"I like C++!", "Pointers everywhere!"},
+        {"I like C#", "Properties everywhere!"},
+        {"c", "Hmm… I’m still learning 🌱 Try asking something else!"},
+        {"see c here", "Hmm… I’m still learning 🌱 Try asking something else!"},
+        {"E-Mail me", "I only do chat, sorry."}
+    };
+
+    @Param({"50000"})
+    public int distinctMessages;
+
+    @Param({"10000"})
+    public int cacheSize;
+
+    @Param({"10000"})
+    public int extraIntents;
+
+    BotBrain brain;
+    ResponseCache cache;
+    String[] stream;
+
+    // Each thread walks the stream from its own position
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = new Random().nextInt(1 << 16);
+        }
+
+        String next(String[] stream) {
+            String message = stream[next];
+            next = (next + 1) & (stream.length - 1);
+            return message;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random rand = new Random(7);
+
+        // Distinct messages, the first ones being the short common greetings
+        String[] pool = new String[distinctMessages];
+        for (int i = 0; i < distinctMessages; i++) {
+            String base = TEMPLATES[i % TEMPLATES.length];
+            pool[i] = i < TEMPLATES.length ? base : base + " question number " + i;
+        }
+
+        // Zipf(1) ranks via the inverse CDF of a precomputed table
+        double[] cdf = new double[distinctMessages];
+        double sum = 0;
+        for (int i = 0; i < distinctMessages; i++) {
+            sum += 1.0 / (i + 1);
+            cdf[i] = sum;
+        }
+        stream = new String[1 << 16];
+        for (int i = 0; i < stream.length; i++) {
+            int rank = Arrays.binarySearch(cdf, rand.nextDouble() * sum);
+            String text = pool[rank < 0 ? -rank - 1 : rank];
+            // Vary case and punctuation the way real users type
+            switch (rand.nextInt(4)) {
+                case 0: text = text.toUpperCase(); break;
+                case 1: text = "  " + text + "!!"; break;
+                default: break;
+            }
+            stream[i] = text;
+        }
+
+        brain = buildBrain(rand);
+        for (String[] symbolCase : SYMBOL_CASES) {
+            String reply = brain.getResponse(symbolCase[0]);
+            if (!reply.equals(symbolCase[1])) {
+                throw new IllegalStateException("Reply to \"" + symbolCase[0] + "\" is \"" + reply
+                        + "\" instead of \"" + symbolCase[1] + "\"");
+            }
+        }
+        checkSameReplies(new BotBrain(), PUNCTUATION_CASES);
+        checkSameReplies(brain, PUNCTUATION_CASES);
+        checkSameReplies(brain, stream);
+        cache = new ResponseCache(brain, cacheSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.println("cache " + cache);
+    }
+
+    @Benchmark
+    public String uncached(Cursor cursor) {
+        return brain.getResponse(cursor.next(stream));
+    }
+
+    @Benchmark
+    public String cached(Cursor cursor) {
+        return cache.getResponse(cursor.next(stream));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String cachedShared(Cursor cursor) {
+        return cache.getResponse(cursor.next(stream));
+    }
+
+    private static void checkSameReplies(BotBrain brain, String[] messages) {
+        ResponseCache cache = new ResponseCache(brain, 64);
+        for (int pass = 0; pass < 2; pass++) {  // first pass fills the cache, second reads it
+            for (String message : messages) {
+                String direct = brain.getResponse(message);
+                String cached = cache.getResponse(message);
+                if (!direct.equals(cached)) {
+                    throw new IllegalStateException("Cached reply differs for \"" + message + "\": \""
+                            + cached + "\" instead of \"" + direct + "\"");
+                }
+            }
+        }
+    }
+
+    private BotBrain buildBrain(Random rand) throws IOException {
+        File file = File.createTempFile("intents", ".txt");
+        file.deleteOnExit();
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            for (String rule : SAMPLE_INTENTS) {
+                writer.println(rule);
+            }
+            for (int i = 0; i < extraIntents; i++) {
+                StringBuilder keyword = new StringBuilder();
+                for (int c = 3 + rand.nextInt(6); c > 0; c--) {
+                    keyword.append((char) ('a' + rand.nextInt(26)));
+                }
+                writer.println(keyword + " | generated reply " + i);
+            }
+        }
+        return new BotBrain(file.getPath());
+    }
+}
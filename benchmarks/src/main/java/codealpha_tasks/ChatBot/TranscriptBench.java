@@ -0,0 +1,49 @@
+package codealpha_tasks.ChatBot;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+// ChatTranscript.append with a JList attached, as in the ChatBot window.
+// Every iteration keeps appending to the same transcript, so a cost that
+// grew with the session length would show up as rising iteration times.
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TranscriptBench {
+    @Param({"500"})
+    public int windowSize;
+
+    File logFile;
+    ChatTranscript transcript;
+    JList<String> list;
+    long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("transcript", ".log");
+        logFile.deleteOnExit();
+        transcript = new ChatTranscript(windowSize, logFile.getPath());
+        list = new JList<>(transcript);
+        list.setFixedCellHeight(18);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transcript.close();
+        System.out.printf("In memory: %d rows, on disk: %,d lines (%,d bytes)%n",
+                list.getModel().getSize(), transcript.getTotalLines(), logFile.length());
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void append() {
+        long i = next++;
+        transcript.append((i % 2 == 0 ? "Bot: reply " : "You: message ") + i);
+    }
+}
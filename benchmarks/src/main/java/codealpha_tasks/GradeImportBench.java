@@ -0,0 +1,77 @@
+package codealpha_tasks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// GradeImporter on a generated ROWS-row CSV file, next to the original
+// Scanner-based path of addStudent (name on one line, score on the next,
+// checked with hasNextInt/nextInt, one Student object per row) reading the
+// same rows. Scores are rows per second.
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(GradeImportBench.ROWS)
+public class GradeImportBench {
+    static final int ROWS = 1_000_000;
+
+    File csv;
+    File typed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random rand = new Random(1);
+        csv = File.createTempFile("grades", ".csv");
+        typed = File.createTempFile("grades", ".txt");
+        csv.deleteOnExit();
+        typed.deleteOnExit();
+        try (Writer csvOut = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csv), StandardCharsets.UTF_8));
+             Writer typedOut = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(typed), StandardCharsets.UTF_8))) {
+            csvOut.write("name,score\n");
+            for (int i = 0; i < ROWS; i++) {
+                String name = "Student " + i;
+                int score = rand.nextInt(101);
+                csvOut.write(name + "," + score + "\n");
+                typedOut.write(name + "\n" + score + "\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        csv.delete();
+        typed.delete();
+    }
+
+    @Benchmark
+    public GradeStore gradeImporter() throws IOException {
+        GradeStore store = new GradeStore();
+        GradeImporter.importFile(csv.getPath(), store);
+        return store;
+    }
+
+    @Benchmark
+    public List<Student> scannerPath() throws IOException {
+        ArrayList<Student> students = new ArrayList<>();
+        GradeStats stats = new GradeStats();
+        try (Scanner scanner = new Scanner(new BufferedInputStream(new FileInputStream(typed)), "UTF-8")) {
+            while (scanner.hasNextLine()) {
+                String name = scanner.nextLine();
+                if (!scanner.hasNextInt()) {
+                    break;
+                }
+                int score = scanner.nextInt();
+                scanner.nextLine();
+                students.add(new Student(name, score));
+                stats.add(score);
+            }
+        }
+        return students;
+    }
+}
@@ -0,0 +1,82 @@
+package codealpha_tasks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// The summary report of StudentGradeManager for [students] generated
+// students: the summary block alone, and the summary plus the full table
+// (what showSummary prints when every page is shown). Output is discarded.
+// The table is also written to a file with ReportWriter and, for
+// comparison, with the old per-row printf on an autoflushing PrintStream.
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GradeReportBench {
+    @Param({"1000", "100000", "1000000"})
+    public int students;
+
+    GradeStore store;
+    PrintStream discard;
+    File file;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(42);
+        store = new GradeStore();
+        for (int i = 0; i < students; i++) {
+            store.add("Student " + i, rand.nextInt(101));
+        }
+        discard = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @Setup(Level.Trial)
+    public void createFile() throws IOException {
+        file = File.createTempFile("report", ".txt");
+        file.deleteOnExit();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void summary() throws IOException {
+        ReportWriter report = new ReportWriter(discard);
+        StudentGradeManager.writeSummary(report, store);
+        report.close();
+    }
+
+    @Benchmark
+    public void showSummary() throws IOException {
+        ReportWriter report = new ReportWriter(discard);
+        StudentGradeManager.writeSummary(report, store);
+        report.writeHeader("No.");
+        report.writeRows(store, 0, store.size());
+        report.close();
+    }
+
+    @Benchmark
+    public void exportTable() throws IOException {
+        try (ReportWriter report = new ReportWriter(file.getPath())) {
+            report.writeHeader("No.");
+            report.writeRows(store, 0, store.size());
+        }
+    }
+
+    @Benchmark
+    public void printfTable() throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file), true)) {
+            out.printf("%-5s %-20s %-5s%n", "No.", "Name", "Score");
+            for (int row = 0; row < store.size(); row++) {
+                out.printf("%-5d %-20s %-5d%n", row + 1, store.getName(row), store.getScore(row));
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package codealpha_tasks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Queries on GradeStore with [students] rows, next to the only way the old
+// ArrayList<Student> layout could answer "top 10": sorting a copy. Setup
+// measures the heap footprint of both layouts; heapFootprint reports it as
+// the secondary metrics storeBytesPerStudent and listBytesPerStudent.
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GradeStoreBench {
+    @Param({"1000000", "10000000"})
+    public int students;
+
+    GradeStore store;
+    ArrayList<Student> list;
+    String[] names;
+    int next;
+    double listBytesPerStudent;
+    double storeBytesPerStudent;
+
+    // JMH sums EVENTS counters over the measurement iterations, so each
+    // iteration reports its share of the footprint
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double listBytesPerStudent;
+        public double storeBytesPerStudent;
+        int iterations;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            iterations = params.getMeasurement().getCount();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(3);
+        int[] scores = new int[students];
+        for (int i = 0; i < students; i++) {
+            scores[i] = rand.nextInt(101);
+        }
+
+        long before = usedHeap();
+        list = new ArrayList<>();
+        for (int i = 0; i < students; i++) {
+            list.add(new Student("Student " + i, scores[i]));
+        }
+        long listBytes = usedHeap() - before;
+
+        before = usedHeap();
+        store = new GradeStore();
+        for (int i = 0; i < students; i++) {
+            store.add("Student " + i, scores[i]);
+        }
+        store.trimToSize();
+        store.topK(1);  // builds the rank index
+        long storeBytes = usedHeap() - before;
+        listBytesPerStudent = (double) listBytes / students;
+        storeBytesPerStudent = (double) storeBytes / students;
+        System.out.printf("Heap: ArrayList<Student> %.1f bytes/student, GradeStore %.1f bytes/student%n",
+                listBytesPerStudent, storeBytesPerStudent);
+
+        names = new String[1024];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Student " + rand.nextInt(students);
+        }
+    }
+
+    @Benchmark
+    public int[] topTen() {
+        return store.topK(10);
+    }
+
+    // Not a query: its time is meaningless, only the secondary metrics count
+    @Benchmark
+    public void heapFootprint(Footprint footprint) {
+        footprint.listBytesPerStudent = listBytesPerStudent / footprint.iterations;
+        footprint.storeBytesPerStudent = storeBytesPerStudent / footprint.iterations;
+    }
+
+    @Benchmark
+    public int rankOf() {
+        next = (next + 1) & (names.length - 1);
+        return store.rankOf(names[next]);
+    }
+
+    @Benchmark
+    public int countInRange() {
+        next = (next + 1) % 96;
+        return store.countInRange(next, next + 5);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] rowsInRange() {
+        return store.rowsInRange(95, 100);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Student> topTenBySorting() {
+        ArrayList<Student> sorted = new ArrayList<>(list);
+        sorted.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        return sorted.subList(0, Math.min(10, sorted.size()));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
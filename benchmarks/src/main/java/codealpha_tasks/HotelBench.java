@@ -0,0 +1,73 @@
+package codealpha_tasks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// HotelManagementSystem on a generated hotel with [rooms] rooms, half of
+// them booked. makeBooking rewrites rooms.txt and bookings.txt on every
+// call, exactly as the application does, so run from a scratch directory.
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HotelBench {
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @State(Scope.Benchmark)
+    public static class Hotel {
+        @Param({"100", "1000"})
+        public int rooms;
+
+        HotelManagementSystem hotel;
+        Customer customer;
+        List<Room> freeRooms;
+        int nextFree;
+        Random rand;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            rand = new Random(42);
+            hotel = new HotelManagementSystem();
+            RoomType[] types = RoomType.values();
+            for (int number = hotel.getRooms().size() + 1; number <= rooms; number++) {
+                hotel.addRoom(new Room(number, types[number % types.length]));
+            }
+            customer = new Customer("Bench Guest", "9999999999", "guest@example.com");
+            hotel.addCustomer(customer);
+
+            freeRooms = new ArrayList<>();
+            List<Room> all = hotel.getRooms();
+            for (int i = 0; i < all.size(); i++) {
+                if (i % 2 == 0) {
+                    LocalDate checkIn = START.plusDays(rand.nextInt(365));
+                    hotel.makeBooking(customer, all.get(i), checkIn, checkIn.plusDays(1 + rand.nextInt(7)));
+                } else {
+                    freeRooms.add(all.get(i));
+                }
+            }
+            nextFree = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Room> searchAvailableRooms(Hotel state) {
+        LocalDate checkIn = START.plusDays(state.rand.nextInt(365));
+        return state.hotel.searchAvailableRooms(checkIn, checkIn.plusDays(3));
+    }
+
+    // Each iteration books 50 of the free rooms; the score is the time for all 50
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 50)
+    @Measurement(iterations = 10, batchSize = 50)
+    public Booking makeBooking(Hotel state) {
+        Room room = state.freeRooms.get(state.nextFree++);
+        LocalDate checkIn = START.plusDays(state.rand.nextInt(365));
+        return state.hotel.makeBooking(state.customer, room, checkIn, checkIn.plusDays(2));
+    }
+}
@@ -0,0 +1,45 @@
+package codealpha_tasks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of one timed section (start + stop) on a LatencyHistogram at the
+// sampling rates Metrics uses, next to an empty baseline. Divide by the
+// time of the instrumented operation to get the overhead. [thread] picks
+// the histogram's owner path (the benchmark thread used it first) or the
+// shared path (another thread got there first).
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsBench {
+    @Param({"1", "16", "64", "256", "1024"})
+    public int sampleEvery;
+
+    @Param({"owner", "shared"})
+    public String thread;
+
+    LatencyHistogram histogram;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        histogram = new LatencyHistogram("bench", sampleEvery);
+        if (thread.equals("shared")) {
+            Thread other = new Thread(() -> histogram.stop(histogram.start()));
+            other.start();
+            other.join();
+        }
+    }
+
+    @Benchmark
+    public void baseline() {
+    }
+
+    @Benchmark
+    public void timedSection() {
+        histogram.stop(histogram.start());
+    }
+}
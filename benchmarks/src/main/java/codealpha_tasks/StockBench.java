@@ -0,0 +1,51 @@
+package codealpha_tasks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// User trading against a generated market of [holdings] stocks, all of
+// which are already in the portfolio. buyStock and getTotalValue are
+// instrumented; run once more with -jvmArgsAppend -Dcodealpha.metrics.off=true
+// to get the uninstrumented times they are compared against.
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StockBench {
+    @Param({"10", "1000"})
+    public int holdings;
+
+    User user;
+    Stock[] stocks;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = new User("Bench Trader", 1e15);
+        stocks = new Stock[holdings];
+        for (int i = 0; i < holdings; i++) {
+            stocks[i] = new Stock("S" + i, "Stock " + i, 10 + i % 500);
+            user.buyStock(stocks[i], 10);
+        }
+    }
+
+    @Benchmark
+    public boolean buyStock() {
+        Stock stock = stocks[next];
+        next = (next + 1) % holdings;
+        boolean bought = user.buyStock(stock, 1);
+        // Every buy appends a Transaction; cap the log so memory stays flat
+        if (user.getTransactions().size() >= 100_000) {
+            user.getTransactions().clear();
+        }
+        return bought;
+    }
+
+    @Benchmark
+    public double getTotalValue() {
+        return user.getTotalValue();
+    }
+}
@@ -0,0 +1,20 @@
+package codealpha_tasks;
+
+// The one-object-per-row layout StudentGradeManager used before GradeStore,
+// kept as the baseline that GradeImportBench and GradeStoreBench compare with.
+class Student {
+    private String name;
+    private int score; // 0 - 100
+
+    public Student(String name, int score) {
+        this.name = name;
+        this.score = score;
+    }
+
+    public String getName() {
+        return name;
+    }
+    public int getScore() {
+        return score;
+    }
+}
@@ -1,27 +1,77 @@
+package codealpha_tasks.ChatBot;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
 public class BotBrain {
-    public String getResponse(String input) {
-        input = input.toLowerCase();
+    private static final String FALLBACK = "Hmm… I’m still learning 🌱 Try asking something else!";
 
-        if (input.contains("hi") || input.contains("hello")) {
-            return "Heyyy 👋 What’s up?";
-        }
-        else if (input.contains("how are you")) {
-            return "I’m just code, but I’m vibing 😌";
-        }
-        else if (input.contains("your name")) {
-            return "I’m your friendly Java chatbot 🤖";
-        }
-        else if (input.contains("ai")) {
-            return "AI is about making machines think smart—kinda like me 😎";
-        }
-        else if (input.contains("java")) {
-            return "Java is powerful, portable, and slightly dramatic ☕";
-        }
-        else if (input.contains("bye")) {
-            return "Bye bestie 👋 Come back soon!";
+    private final List<String> responses = new ArrayList<>();
+    private final IntentMatcher matcher = new IntentMatcher();
+    private String fallback = FALLBACK;
+
+    // Built-in rules, same order and replies as the original if/else chain
+    public BotBrain() {
+        addIntent("Heyyy 👋 What’s up?", "hi", "hello");
+        addIntent("I’m just code, but I’m vibing 😌", "how are you");
+        addIntent("I’m your friendly Java chatbot 🤖", "your name");
+        addIntent("AI is about making machines think smart—kinda like me 😎", "ai");
+        addIntent("Java is powerful, portable, and slightly dramatic ☕", "java");
+        addIntent("Bye bestie 👋 Come back soon!", "bye");
+        matcher.compile();
+    }
+
+    // Loads rules from an intents file. One rule per line:
+    //   keyword1, keyword2 | response
+    // Blank lines and lines starting with # are ignored. A rule with the
+    // keyword * replaces the fallback reply. Earlier rules win ties.
+    public BotBrain(String intentsFile) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(intentsFile), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int bar = line.indexOf('|');
+                if (bar < 0) {
+                    throw new IOException(intentsFile + ":" + lineNumber + ": missing '|' between keywords and response");
+                }
+                String keywords = line.substring(0, bar).trim();
+                String response = line.substring(bar + 1).trim();
+                if (keywords.equals("*")) {
+                    fallback = response;
+                } else {
+                    addIntent(response, keywords.split(","));
+                }
+            }
         }
-        else {
-            return "Hmm… I’m still learning 🌱 Try asking something else!";
+        matcher.compile();
+    }
+
+    private void addIntent(String response, String... keywords) {
+        int ruleIndex = responses.size();
+        responses.add(response);
+        for (String keyword : keywords) {
+            matcher.addKeyword(keyword, ruleIndex);
         }
     }
+
+    public int getIntentCount() {
+        return responses.size();
+    }
+
+    // The text getResponse actually matches on; equal keys get equal replies
+    String normalize(String input) {
+        return matcher.normalize(input);
+    }
+
+    public String getResponse(String input) {
+        int ruleIndex = matcher.match(input);
+        return ruleIndex < 0 ? fallback : responses.get(ruleIndex);
+    }
 }
@@ -1,28 +1,45 @@
+package codealpha_tasks.ChatBot;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-public class ChatBot extends JFrame implements ActionListener {
+public class ChatBot extends JFrame implements ActionListener, ReplyPipeline.Listener {
 
-    JTextArea chatArea;
+    JList<String> chatList;
+    JScrollPane scrollPane;
+    ChatTranscript transcript;
     JTextField inputField;
     JButton sendButton;
+    JLabel statusLabel;
     BotBrain brain;
+    ReplyPipeline pipeline;
+
+    private static final String TRANSCRIPT_FILE = "chat_transcript.txt";
+    private static final int ROW_MARGIN = 6;  // cell border plus a little slack
 
-    public ChatBot() {
-        brain = new BotBrain();
+    public ChatBot(BotBrain brain) {
+        this.brain = brain;
+        pipeline = new ReplyPipeline(brain, Runtime.getRuntime().availableProcessors(), this);
 
         setTitle("AI Chatbot");
         setSize(400, 500);
         setLayout(new BorderLayout());
         setDefaultCloseOperation(EXIT_ON_CLOSE);
 
-        chatArea = new JTextArea();
-        chatArea.setEditable(false);
-        chatArea.setLineWrap(true);
-        chatArea.setWrapStyleWord(true);
+        // Only the last lines stay in memory; the full session goes to the log file
+        transcript = new ChatTranscript(500, TRANSCRIPT_FILE);
+        chatList = new JList<>(transcript);
+        // Fixed cell height lets the list lay out only the rows on screen.
+        // Long lines are wrapped into several rows in addLine instead.
+        chatList.setFixedCellHeight(chatList.getFontMetrics(chatList.getFont()).getHeight() + 2);
+        chatList.setFixedCellWidth(1);
 
-        JScrollPane scrollPane = new JScrollPane(chatArea);
+        scrollPane = new JScrollPane(chatList);
+        scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
 
         inputField = new JTextField();
         sendButton = new JButton("Send");
@@ -31,6 +48,10 @@ public class ChatBot extends JFrame implements ActionListener {
         bottomPanel.add(inputField, BorderLayout.CENTER);
         bottomPanel.add(sendButton, BorderLayout.EAST);
 
+        statusLabel = new JLabel();
+        onStatsChanged();
+
+        add(statusLabel, BorderLayout.NORTH);
         add(scrollPane, BorderLayout.CENTER);
         add(bottomPanel, BorderLayout.SOUTH);
 
@@ -42,15 +63,68 @@ public class ChatBot extends JFrame implements ActionListener {
 
     public void actionPerformed(ActionEvent e) {
         String userText = inputField.getText();
-        chatArea.append("You: " + userText + "\n");
+        addLine("You: " + userText);
+        inputField.setText("");
 
-        String botReply = brain.getResponse(userText);
-        chatArea.append("Bot: " + botReply + "\n\n");
+        // The reply arrives later through onReply, on the EDT
+        pipeline.submit(userText);
+    }
 
-        inputField.setText("");
+    public void onReply(String input, String reply) {
+        addLine("Bot: " + reply);
+        addLine("");
+    }
+
+    private void addLine(String line) {
+        transcript.append(line, wrap(line));
+        chatList.ensureIndexIsVisible(transcript.getSize() - 1);
+    }
+
+    // Splits a line into rows that fit the visible list width, breaking at
+    // spaces where possible, like the old word-wrapping text area
+    private String[] wrap(String line) {
+        FontMetrics metrics = chatList.getFontMetrics(chatList.getFont());
+        int width = scrollPane.getViewport().getExtentSize().width - ROW_MARGIN;
+        if (width <= 0 || metrics.stringWidth(line) <= width) {
+            return new String[] { line };
+        }
+
+        List<String> rows = new ArrayList<>();
+        int start = 0;
+        while (start < line.length()) {
+            int end = start;
+            int lastSpace = -1;
+            int rowWidth = 0;
+            while (end < line.length()) {
+                int codePoint = line.codePointAt(end);
+                rowWidth += metrics.charWidth(codePoint);
+                if (rowWidth > width && end > start) {
+                    break;
+                }
+                if (codePoint == ' ') {
+                    lastSpace = end;
+                }
+                end += Character.charCount(codePoint);
+            }
+            if (end < line.length() && lastSpace > start) {
+                end = lastSpace;
+            }
+            rows.add(line.substring(start, end));
+            start = end;
+            while (start < line.length() && line.charAt(start) == ' ') {
+                start++;
+            }
+        }
+        return rows.toArray(new String[0]);
+    }
+
+    public void onStatsChanged() {
+        statusLabel.setText(String.format(" Pending: %d | Queued: %d | Latency last %.1f ms, avg %.1f ms, max %.1f ms",
+                pipeline.getPendingCount(), pipeline.getQueueDepth(), pipeline.getLastLatencyMillis(),
+                pipeline.getAverageLatencyMillis(), pipeline.getMaxLatencyMillis()));
     }
 
-    public static void main(String[] args) {
-        new ChatBot();
+    public static void main(String[] args) throws IOException {
+        new ChatBot(args.length > 0 ? new BotBrain(args[0]) : new BotBrain());
     }
 }
@@ -0,0 +1,182 @@
+package codealpha_tasks.ChatBot;
+
+import codealpha_tasks.Metrics;
+
+import com.sun.net.httpserver.*;
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Per-session conversation state. The BotBrain itself is shared.
+class ChatSession {
+    private static final int HISTORY_SIZE = 20;
+
+    private final String id;
+    private final Deque<String> history = new ArrayDeque<>();
+    private int turns;
+    private long lastActive;
+
+    public ChatSession(String id) {
+        this.id = id;
+        this.lastActive = System.currentTimeMillis();
+    }
+
+    public String getId() { return id; }
+
+    public synchronized int addTurn(String message, String reply) {
+        history.addLast("You: " + message);
+        history.addLast("Bot: " + reply);
+        while (history.size() > HISTORY_SIZE) {
+            history.removeFirst();
+        }
+        lastActive = System.currentTimeMillis();
+        return ++turns;
+    }
+
+    public synchronized List<String> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    public synchronized long getLastActive() {
+        return lastActive;
+    }
+}
+
+// HTTP front end for BotBrain serving many sessions at once.
+//   POST /chat?session=<id>   body is the message, response is the reply
+//   GET  /chat?session=<id>   recent history for the session
+//   GET  /stats               session count, reply cache and latency metrics
+// The compiled BotBrain is read-only after construction, so every request
+// thread shares one instance behind one ResponseCache. Idle sessions are
+// dropped after 30 minutes.
+public class ChatServer {
+    private static final long SESSION_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int CACHE_SIZE = 10000;
+
+    private final ResponseCache replies;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService sweeper;
+    private final ConcurrentHashMap<String, ChatSession> sessions = new ConcurrentHashMap<>();
+
+    public ChatServer(BotBrain brain, int port, int threads) throws IOException {
+        this.replies = new ResponseCache(brain, CACHE_SIZE);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 4096);
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/chat", this::handle);
+        server.createContext("/stats", this::handleStats);
+        server.setExecutor(workers);
+    }
+
+    public void start() {
+        server.start();
+        sweeper.scheduleAtFixedRate(this::removeIdleSessions, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public void stop() {
+        server.stop(0);
+        sweeper.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void removeIdleSessions() {
+        long cutoff = System.currentTimeMillis() - SESSION_TIMEOUT_MS;
+        sessions.values().removeIf(session -> session.getLastActive() < cutoff);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String sessionId;
+            try {
+                sessionId = getQueryParam(exchange.getRequestURI().getRawQuery(), "session");
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, "Malformed query: " + e.getMessage());
+                return;
+            }
+            if (sessionId == null || sessionId.isEmpty()) {
+                send(exchange, 400, "Missing session parameter");
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            if (method.equals("POST")) {
+                long start = Metrics.BOT_REPLY.start();
+                String message = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                ChatSession session = sessions.computeIfAbsent(sessionId, ChatSession::new);
+                String reply = replies.getResponse(message);
+                int turn = session.addTurn(message, reply);
+                exchange.getResponseHeaders().set("X-Turn", String.valueOf(turn));
+                send(exchange, 200, reply);
+                Metrics.BOT_REPLY.stop(start);
+            } else if (method.equals("GET")) {
+                ChatSession session = sessions.get(sessionId);
+                if (session == null) {
+                    send(exchange, 404, "Unknown session");
+                } else {
+                    send(exchange, 200, String.join("\n", session.getHistory()));
+                }
+            } else {
+                send(exchange, 405, "Use GET or POST");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            send(exchange, 200, "sessions=" + sessions.size() + "\ncache " + replies + "\n" + Metrics.report());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    public ResponseCache getCache() {
+        return replies;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    // Throws IllegalArgumentException if the value has a malformed % escape
+    private static String getQueryParam(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    // Usage: java codealpha_tasks.ChatBot.ChatServer [port] [intents file]
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        BotBrain brain = args.length > 1 ? new BotBrain(args[1]) : new BotBrain();
+        ChatServer chatServer = new ChatServer(brain, port, Runtime.getRuntime().availableProcessors() * 2);
+        chatServer.start();
+        System.out.println("Chat server listening on http://127.0.0.1:" + chatServer.getPort() + "/chat");
+    }
+}
@@ -0,0 +1,91 @@
+package codealpha_tasks.ChatBot;
+
+import java.net.URI;
+import java.net.http.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+// Drives a local ChatServer with many concurrent sessions over loopback and
+// reports throughput and latency percentiles. Every session stays open for
+// the whole run. By default every session has a request outstanding at once;
+// pass a smaller [inFlight] if the file descriptor limit is too low for that.
+// The result line reports the peak concurrency actually reached.
+// Usage: java codealpha_tasks.ChatBot.ChatServerLoadTest [sessions] [messagesPerSession] [inFlight]
+public class ChatServerLoadTest {
+    private static final String[] MESSAGES = {
+        "hi there", "how are you?", "what is your name", "tell me about ai",
+        "do you like java", "random chatter", "ok bye"
+    };
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int perSession = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int inFlight = args.length > 2 ? Integer.parseInt(args[2]) : sessions;
+
+        ChatServer server = new ChatServer(new BotBrain(), 0, Runtime.getRuntime().availableProcessors() * 2);
+        server.start();
+        String base = "http://127.0.0.1:" + server.getPort() + "/chat?session=";
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+        Semaphore permits = new Semaphore(inFlight);
+        int total = sessions * perSession;
+        long[] latencies = new long[total];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger peakOutstanding = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+
+        // Message n of every session goes out before message n + 1 of any
+        // session, so all sessions stay open for the whole run
+        long start = System.nanoTime();
+        for (int round = 0; round < perSession; round++) {
+            HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.ofString(MESSAGES[round % MESSAGES.length]);
+            for (int s = 0; s < sessions; s++) {
+                permits.acquire();
+                HttpRequest request = HttpRequest.newBuilder(URI.create(base + "user" + s)).POST(body).build();
+                peakOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+                long sent = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - sent;
+                    if (error != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    } else {
+                        latencies[recorded.getAndIncrement()] = latency;
+                    }
+                    outstanding.decrementAndGet();
+                    permits.release();
+                    done.countDown();
+                });
+            }
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        int openSessions = server.getSessionCount();
+        server.stop();
+
+        int count = recorded.get();
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        System.out.printf("%d sessions x %d messages, peak %d requests in flight (limit %d), %d sessions held by server: %d ok, %d errors%n",
+                sessions, perSession, peakOutstanding.get(), inFlight, openSessions, count, errors.get());
+        System.out.printf("Throughput: %.0f messages/sec%n", count * 1e9 / elapsed);
+        System.out.printf("Latency p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), count == 0 ? 0 : sorted[count - 1] / 1e6);
+        System.out.println("Reply cache: " + server.getCache());
+        System.exit(0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
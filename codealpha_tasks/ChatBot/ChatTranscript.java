@@ -0,0 +1,91 @@
+package codealpha_tasks.ChatBot;
+
+import javax.swing.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+// Chat history for long sessions. Every line is appended to a log file on
+// disk, but only the most recent lines are kept in memory and shown. The
+// window is a fixed-size ring buffer, so an append costs the same after a
+// million messages as after the first one. A long line can be shown as
+// several rows (wrapped to the list width) while it is logged only once.
+class ChatTranscript extends AbstractListModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    private final String[] window;
+    private int head;   // index of the oldest line in the window
+    private int count;  // lines currently in the window
+    private long totalLines;
+    private transient Writer log;
+
+    public ChatTranscript(int windowSize, String logFile) {
+        window = new String[windowSize];
+        try {
+            log = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(logFile, true), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Error opening transcript log: " + e.getMessage());
+        }
+    }
+
+    public void append(String line) {
+        append(line, new String[] { line });
+    }
+
+    // Logs the line and shows it as the given rows
+    public void append(String line, String[] rows) {
+        if (log != null) {
+            try {
+                log.write(line);
+                log.write(System.lineSeparator());
+                log.flush();
+            } catch (IOException e) {
+                System.out.println("Error saving transcript: " + e.getMessage());
+                log = null;
+            }
+        }
+
+        totalLines++;
+        for (String row : rows) {
+            addRow(row);
+        }
+    }
+
+    private void addRow(String row) {
+        if (count == window.length) {
+            // Drop the oldest row first, so listeners see a consistent size for each event
+            window[head] = null;
+            head = (head + 1) % window.length;
+            count--;
+            fireIntervalRemoved(this, 0, 0);
+        }
+        window[(head + count) % window.length] = row;
+        count++;
+        fireIntervalAdded(this, count - 1, count - 1);
+    }
+
+    // Number of lines written this session, including ones no longer in memory
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    @Override
+    public int getSize() {
+        return count;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return window[(head + index) % window.length];
+    }
+
+    public void close() {
+        if (log != null) {
+            try {
+                log.close();
+            } catch (IOException e) {
+                System.out.println("Error closing transcript: " + e.getMessage());
+            }
+        }
+    }
+}
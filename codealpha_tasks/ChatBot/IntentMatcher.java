@@ -0,0 +1,244 @@
+package codealpha_tasks.ChatBot;
+
+import java.util.*;
+
+// Aho-Corasick automaton built over every keyword of every intent.
+// A message is scanned once, left to right, no matter how many rules exist.
+// Keywords only count when they sit on word boundaries, so "hi" does not
+// fire inside "this" and "ai" does not fire inside "said".
+// Keywords and messages both go through normalize() first, so case,
+// punctuation and runs of whitespace never change which rule matches.
+// Symbols that appear in a keyword, like the + of "c++" or the # of "c#",
+// are not punctuation to that matcher: they count as word characters, so
+// "c++", "c#" and "c" stay three different words.
+//
+// Every keyword is stored with a leading space and every message is scanned
+// as if it started with one, so a keyword can only begin right after a
+// non-word character. compile() flattens the trie into primitive arrays:
+// each node's edges are a sorted run of edgeChar/edgeTarget. match() folds
+// the raw message on the fly instead of building the normalized string.
+class IntentMatcher {
+    private static final int ROOT = 0;
+
+    private List<Map<Character, Integer>> children = new ArrayList<>();
+    private final BitSet symbols = new BitSet();
+    private final boolean[] asciiWord = new boolean[128];
+    private int[] edgeStart;  // edges of node n are [edgeStart[n], edgeStart[n + 1])
+    private char[] edgeChar;
+    private int[] edgeTarget;
+    private int[] fail;
+    private int[] rule;      // lowest rule index whose keyword ends exactly here, -1 if none
+    private int[] dictLink;  // nearest node on the fail chain that ends a keyword, -1 if none
+    private int[] tmpRule = new int[16];
+    private int start = ROOT;  // state after the leading space
+    private int size;
+
+    public IntentMatcher() {
+        for (char c = 0; c < asciiWord.length; c++) {
+            asciiWord[c] = Character.isLetterOrDigit(c);
+        }
+        newNode();
+    }
+
+    private int newNode() {
+        if (size == tmpRule.length) {
+            tmpRule = Arrays.copyOf(tmpRule, size * 2);
+        }
+        children.add(new HashMap<>());
+        tmpRule[size] = -1;
+        return size++;
+    }
+
+    // Adds a keyword for the given rule. Lower rule indexes win when
+    // several rules match the same message, like the old if/else chain.
+    public void addKeyword(String keyword, int ruleIndex) {
+        if (fail != null) {
+            throw new IllegalStateException("Matcher already compiled");
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (!Character.isLetterOrDigit(c) && !Character.isWhitespace(c)) {
+                symbols.set(c);
+                if (c < asciiWord.length) {
+                    asciiWord[c] = true;
+                }
+            }
+        }
+        String word = normalize(keyword);
+        if (word.isEmpty()) {
+            return;
+        }
+        int node = ROOT;
+        for (int i = -1; i < word.length(); i++) {
+            char c = i < 0 ? ' ' : word.charAt(i);
+            Integer next = children.get(node).get(c);
+            if (next == null) {
+                next = newNode();
+                children.get(node).put(c, next);
+            }
+            node = next;
+        }
+        if (tmpRule[node] == -1 || ruleIndex < tmpRule[node]) {
+            tmpRule[node] = ruleIndex;
+        }
+    }
+
+    // Flattens the trie and builds fail and dictionary links with a
+    // breadth-first walk.
+    public void compile() {
+        rule = Arrays.copyOf(tmpRule, size);
+        fail = new int[size];
+        dictLink = new int[size];
+        dictLink[ROOT] = -1;
+        tmpRule = null;
+
+        edgeStart = new int[size + 1];
+        edgeChar = new char[size - 1];
+        edgeTarget = new int[size - 1];
+        int edges = 0;
+        for (int node = 0; node < size; node++) {
+            edgeStart[node] = edges;
+            for (Map.Entry<Character, Integer> edge : children.get(node).entrySet()) {
+                // Insertion sort by character; most nodes have one or two edges
+                int e = edges++;
+                while (e > edgeStart[node] && edgeChar[e - 1] > edge.getKey()) {
+                    edgeChar[e] = edgeChar[e - 1];
+                    edgeTarget[e] = edgeTarget[e - 1];
+                    e--;
+                }
+                edgeChar[e] = edge.getKey();
+                edgeTarget[e] = edge.getValue();
+            }
+        }
+        edgeStart[size] = edges;
+        children = null;
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            int child = edgeTarget[e];
+            fail[child] = ROOT;
+            dictLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                char c = edgeChar[e];
+                int child = edgeTarget[e];
+                int f = fail[node];
+                int target = next(f, c);
+                while (target < 0 && f != ROOT) {
+                    f = fail[f];
+                    target = next(f, c);
+                }
+                fail[child] = target >= 0 ? target : ROOT;
+                dictLink[child] = rule[fail[child]] != -1 ? fail[child] : dictLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        int afterSpace = next(ROOT, ' ');
+        start = afterSpace >= 0 ? afterSpace : ROOT;
+    }
+
+    // Returns the lowest matching rule index, or -1 when nothing matches.
+    public int match(String message) {
+        if (fail == null) {
+            throw new IllegalStateException("Matcher not compiled");
+        }
+        int best = -1;
+        int node = start;
+        boolean pendingSpace = false;
+        int length = message.length();
+        boolean word = length > 0 && isWordChar(message.charAt(0));
+        for (int i = 0; i < length; i++) {
+            boolean nextWord = i + 1 < length && isWordChar(message.charAt(i + 1));
+            if (!word) {
+                pendingSpace = true;
+                word = nextWord;
+                continue;
+            }
+            if (pendingSpace) {
+                node = step(node, ' ');
+                pendingSpace = false;
+            }
+            node = step(node, fold(message.charAt(i)));
+            word = nextWord;
+
+            // Only check outputs if the keyword can end on a word boundary here
+            if (nextWord) {
+                continue;
+            }
+            int out = rule[node] != -1 ? node : dictLink[node];
+            while (out != -1) {
+                if (best == -1 || rule[out] < best) {
+                    best = rule[out];
+                }
+                out = dictLink[out];
+            }
+        }
+        return best;
+    }
+
+    private int step(int node, char c) {
+        int next = next(node, c);
+        while (next < 0 && node != ROOT) {
+            node = fail[node];
+            next = next(node, c);
+        }
+        return next < 0 ? ROOT : next;
+    }
+
+    // Child of node along c, or -1; binary search over the node's sorted edges
+    private int next(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChar[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+
+    public int getNodeCount() {
+        return size;
+    }
+
+    // Lowercases word characters and turns every run of other characters
+    // into one space, trimmed at both ends: "  Hi, there!" becomes "hi there".
+    // normalize(normalize(s)) equals normalize(s).
+    public String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isWordChar(c)) {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(fold(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private boolean isWordChar(char c) {
+        return c < 128 ? asciiWord[c] : Character.isLetterOrDigit(c) || symbols.get(c);
+    }
+}
@@ -0,0 +1,106 @@
+package codealpha_tasks.ChatBot;
+
+import codealpha_tasks.Metrics;
+
+import javax.swing.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Runs BotBrain on a worker pool so the event dispatch thread never waits
+// for a reply. Replies can finish out of order on the workers, so they are
+// parked here and handed to the listener strictly in submission order.
+// Everything except the getResponse call happens on the EDT.
+class ReplyPipeline {
+    interface Listener {
+        void onReply(String input, String reply);
+        void onStatsChanged();
+    }
+
+    private final BotBrain brain;
+    private final Listener listener;
+    private final ThreadPoolExecutor workers;
+
+    // EDT-only state
+    private final Map<Long, String> finished = new HashMap<>();
+    private final Map<Long, String> inputs = new HashMap<>();
+    private final Map<Long, Long> submitTimes = new HashMap<>();
+    private long nextSequence;
+    private long nextToDeliver;
+
+    // Instrumentation, also EDT-only
+    private long delivered;
+    private long totalLatencyNanos;
+    private long lastLatencyNanos;
+    private long maxLatencyNanos;
+    private int maxPending;
+
+    public ReplyPipeline(BotBrain brain, int threads, Listener listener) {
+        this.brain = brain;
+        this.listener = listener;
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "bot-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // Must be called on the EDT
+    public void submit(String input) {
+        long sequence = nextSequence++;
+        inputs.put(sequence, input);
+        submitTimes.put(sequence, System.nanoTime());
+        maxPending = Math.max(maxPending, getPendingCount());
+
+        workers.execute(() -> {
+            String reply;
+            try {
+                reply = brain.getResponse(input);
+            } catch (RuntimeException e) {
+                reply = "Oops, something went wrong: " + e.getMessage();
+            }
+            String result = reply;
+            SwingUtilities.invokeLater(() -> complete(sequence, result));
+        });
+        listener.onStatsChanged();
+    }
+
+    private void complete(long sequence, String reply) {
+        finished.put(sequence, reply);
+        while (finished.containsKey(nextToDeliver)) {
+            long latency = System.nanoTime() - submitTimes.remove(nextToDeliver);
+            delivered++;
+            totalLatencyNanos += latency;
+            lastLatencyNanos = latency;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            Metrics.BOT_REPLY.record(latency);
+
+            listener.onReply(inputs.remove(nextToDeliver), finished.remove(nextToDeliver));
+            nextToDeliver++;
+        }
+        listener.onStatsChanged();
+    }
+
+    // Messages still waiting for a worker thread
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    // Messages sent but not yet shown, including ones being worked on
+    public int getPendingCount() {
+        return (int) (nextSequence - nextToDeliver);
+    }
+
+    public int getMaxPending() { return maxPending; }
+    public long getDeliveredCount() { return delivered; }
+    public double getLastLatencyMillis() { return lastLatencyNanos / 1e6; }
+    public double getMaxLatencyMillis() { return maxLatencyNanos / 1e6; }
+
+    public double getAverageLatencyMillis() {
+        return delivered == 0 ? 0 : totalLatencyNanos / 1e6 / delivered;
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
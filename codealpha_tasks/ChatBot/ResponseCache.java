@@ -0,0 +1,107 @@
+package codealpha_tasks.ChatBot;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded LRU cache in front of BotBrain.getResponse. Messages are keyed by
+// BotBrain.normalize (case-folded, punctuation that no keyword uses dropped,
+// whitespace collapsed), so "Hi!", "hi" and "  HI  " share one entry. BotBrain matches
+// on the same normalized text, so every message with a given key gets the
+// same reply, cached or not.
+// Safe to share between threads. The entries are split into segments by key
+// hash, each an access-ordered LinkedHashMap with its own lock, so request
+// threads only contend when their keys land in the same segment. Eviction is
+// LRU within a segment.
+class ResponseCache {
+    private static final int SEGMENTS = 16;
+
+    private final BotBrain brain;
+    private final int capacity;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private class Segment extends LinkedHashMap<String, String> {
+        private static final long serialVersionUID = 1L;
+
+        private final int segmentCapacity;
+
+        Segment(int segmentCapacity) {
+            super(16, 0.75f, true);
+            this.segmentCapacity = segmentCapacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            if (size() > segmentCapacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public ResponseCache(BotBrain brain, int capacity) {
+        this.brain = brain;
+        this.capacity = capacity;
+        int count = Math.max(1, Math.min(SEGMENTS, capacity));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // Spread the capacity so the segments add up to exactly capacity
+            segments[i] = new Segment(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    public String getResponse(String input) {
+        String key = brain.normalize(input);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            String cached = segment.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        // Compute outside the lock; two threads may race on the same key,
+        // which only costs a duplicate lookup
+        String reply = brain.getResponse(input);
+        synchronized (segment) {
+            segment.put(key, reply);
+        }
+        return reply;
+    }
+
+    private Segment segmentFor(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return segments[(h >>> 16) % segments.length];
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public int getCapacity() { return capacity; }
+
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d/%d hits=%d misses=%d evictions=%d hitRate=%.1f%%",
+                getSize(), capacity, getHits(), getMisses(), getEvictions(), getHitRate() * 100);
+    }
+}
@@ -0,0 +1,232 @@
+package codealpha_tasks;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Bulk loader for "name,score" CSV files. The file is split into one chunk
+// per fork-join worker, each ending on a line break. Every chunk is
+// memory-mapped and parsed into its own GradeStore on the common fork-join
+// pool, and the chunk stores are appended to the target store in file order. The target store is only
+// touched once every chunk has parsed, so a failed import adds nothing.
+// The score is taken after the last comma, so names may contain commas;
+// surrounding double quotes are stripped. A first line whose score field has
+// no digits at all is treated as a header and reported in the Result, so a
+// first data row with a bad score cannot disappear silently.
+class GradeImporter {
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final long MAX_CHUNK_SIZE = 256 * 1024 * 1024;  // well under the 2 GB map limit
+    private static final int MAX_ERRORS = 10;
+
+    static class Result {
+        final long importedRows;
+        final long invalidRows;
+        final List<String> errors;
+        final String header;  // the skipped first line, or null
+
+        Result(long importedRows, long invalidRows, List<String> errors, String header) {
+            this.importedRows = importedRows;
+            this.invalidRows = invalidRows;
+            this.errors = errors;
+            this.header = header;
+        }
+    }
+
+    // Parsed rows of one chunk
+    private static class Chunk {
+        final GradeStore store = new GradeStore();
+        final List<String> errors = new ArrayList<>();
+        long invalidRows;
+        String header;
+    }
+
+    public static Result importFile(String path, GradeStore store) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long chunkSize = channel.size() / ForkJoinPool.getCommonPoolParallelism() + 1;
+            long[] bounds = splitOnLines(channel, Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, chunkSize)));
+
+            List<Future<Chunk>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                boolean first = i == 0;
+                tasks.add(ForkJoinPool.commonPool().submit(() -> parseChunk(channel, start, end, first)));
+            }
+
+            List<Chunk> chunks = new ArrayList<>();
+            try {
+                for (Future<Chunk> task : tasks) {
+                    chunks.add(join(task));
+                }
+            } catch (IOException e) {
+                for (Future<Chunk> task : tasks) {
+                    task.cancel(true);
+                }
+                throw e;
+            }
+
+            long imported = 0;
+            List<String> errors = new ArrayList<>();
+            long invalid = 0;
+            for (Chunk chunk : chunks) {
+                store.addAll(chunk.store);
+                imported += chunk.store.size();
+                invalid += chunk.invalidRows;
+                for (String error : chunk.errors) {
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add(error);
+                    }
+                }
+            }
+            return new Result(imported, invalid, errors, chunks.isEmpty() ? null : chunks.get(0).header);
+        }
+    }
+
+    private static Chunk join(Future<Chunk> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Import failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    // Chunk boundaries: each one except the last sits just after a '\n'
+    private static long[] splitOnLines(FileChannel channel, long chunkSize) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long position = 0;
+        ByteBuffer one = ByteBuffer.allocate(1);
+        while (position + chunkSize < size) {
+            position += chunkSize;
+            // Walk forward to the next line break
+            while (position < size) {
+                one.clear();
+                channel.read(one, position++);
+                if (one.get(0) == '\n') {
+                    break;
+                }
+            }
+            if (position < size) {
+                bounds.add(position);
+            }
+        }
+        bounds.add(size);
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static Chunk parseChunk(FileChannel channel, long start, long end, boolean first) throws IOException {
+        Chunk chunk = new Chunk();
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = buffer.limit();
+        byte[] line = new byte[256];
+        int lineStart = 0;
+        boolean headerAllowed = first;
+
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int length = lineEnd - lineStart;
+            if (length > 0 && buffer.get(lineEnd - 1) == '\r') {
+                length--;
+            }
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            buffer.get(lineStart, line, 0, length);
+            parseLine(line, length, start + lineStart, headerAllowed, chunk);
+            headerAllowed = false;
+            lineStart = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    private static void parseLine(byte[] line, int length, long offset, boolean headerAllowed, Chunk chunk) {
+        if (isBlank(line, length)) {
+            return;
+        }
+        int comma = length - 1;
+        while (comma >= 0 && line[comma] != ',') {
+            comma--;
+        }
+        if (comma < 0) {
+            reject(chunk, offset, "missing comma");
+            return;
+        }
+
+        // Spaces and tabs may surround the number but not split it
+        int i = comma + 1;
+        while (i < length && (line[i] == ' ' || line[i] == '\t')) i++;
+        int score = 0;
+        int digits = 0;
+        while (i < length && line[i] >= '0' && line[i] <= '9') {
+            if (digits < 4) {
+                score = score * 10 + (line[i] - '0');
+            }
+            digits++;
+            i++;
+        }
+        while (i < length && (line[i] == ' ' || line[i] == '\t')) i++;
+        if (i < length || digits == 0) {
+            if (headerAllowed && digits == 0) {
+                chunk.header = new String(line, 0, length, StandardCharsets.UTF_8);
+            } else {
+                reject(chunk, offset, "score is not a whole number");
+            }
+            return;
+        }
+        if (digits > 3 || score > GradeStats.MAX_SCORE) {
+            reject(chunk, offset, "score must be between 0 and 100");
+            return;
+        }
+
+        int nameStart = 0;
+        int nameEnd = comma;
+        while (nameStart < nameEnd && (line[nameStart] == ' ' || line[nameStart] == '\t')) nameStart++;
+        while (nameEnd > nameStart && (line[nameEnd - 1] == ' ' || line[nameEnd - 1] == '\t')) nameEnd--;
+        if (nameEnd - nameStart >= 2 && line[nameStart] == '"' && line[nameEnd - 1] == '"') {
+            nameStart++;
+            nameEnd--;
+        }
+        if (nameStart == nameEnd) {
+            reject(chunk, offset, "missing name");
+            return;
+        }
+
+        chunk.store.add(line, nameStart, nameEnd - nameStart, score);
+    }
+
+    private static boolean isBlank(byte[] line, int length) {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void reject(Chunk chunk, long offset, String reason) {
+        chunk.invalidRows++;
+        if (chunk.errors.size() < MAX_ERRORS) {
+            chunk.errors.add("byte " + offset + ": " + reason);
+        }
+    }
+}
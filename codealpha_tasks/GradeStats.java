@@ -0,0 +1,121 @@
+package codealpha_tasks;
+
+// Running statistics, updated once per added student so reports never
+// rescan the list. Scores are whole numbers 0-100, so a 101-bucket
+// histogram gives exact medians and percentiles. Students are identified by
+// the order they were added in, which is also their row in GradeStore.
+class GradeStats {
+    public static final int MAX_SCORE = 100;
+
+    private final long[] histogram = new long[MAX_SCORE + 1];
+    private long count;
+    private long sum;
+    private int highest = Integer.MIN_VALUE;
+    private int lowest = Integer.MAX_VALUE;
+    private long highestRow = -1;
+    private long lowestRow = -1;
+    private double mean;
+    private double m2; // sum of squared differences from the mean (Welford)
+
+    public void add(int score) {
+        count++;
+        sum += score;
+        histogram[score]++;
+
+        double delta = score - mean;
+        mean += delta / count;
+        m2 += delta * (score - mean);
+
+        if (score > highest) {
+            highest = score;
+            highestRow = count - 1;
+        }
+        if (score < lowest) {
+            lowest = score;
+            lowestRow = count - 1;
+        }
+    }
+
+    // Folds in statistics gathered separately, e.g. by a parallel import.
+    // The other side's students are numbered after this side's. Ties for
+    // highest/lowest keep this side's student, so merging in input order
+    // gives the same holders as adding one by one.
+    public void merge(GradeStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        long offset = count;
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        mean += delta * other.count / total;
+        count = total;
+        sum += other.sum;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            histogram[score] += other.histogram[score];
+        }
+        if (other.highest > highest) {
+            highest = other.highest;
+            highestRow = offset + other.highestRow;
+        }
+        if (other.lowest < lowest) {
+            lowest = other.lowest;
+            lowestRow = offset + other.lowestRow;
+        }
+    }
+
+    public long getCount() { return count; }
+    public long getSum() { return sum; }
+    public int getHighest() { return highest; }
+    public int getLowest() { return lowest; }
+    public long getHighestRow() { return highestRow; }
+    public long getLowestRow() { return lowestRow; }
+
+    public double getAverage() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    // Population variance
+    public double getVariance() {
+        return count == 0 ? 0 : m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMedian() {
+        if (count == 0) {
+            return 0;
+        }
+        if (count % 2 == 1) {
+            return scoreAtRank(count / 2 + 1);
+        }
+        return (scoreAtRank(count / 2) + scoreAtRank(count / 2 + 1)) / 2.0;
+    }
+
+    // Nearest-rank percentile, p in 0-100
+    public int getPercentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p / 100.0 * count);
+        return scoreAtRank(Math.max(1, Math.min(count, rank)));
+    }
+
+    public long getCountAt(int score) {
+        return histogram[score];
+    }
+
+    // Score of the student at the given 1-based rank, lowest score first
+    private int scoreAtRank(long rank) {
+        long seen = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            seen += histogram[score];
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return MAX_SCORE;
+    }
+}
@@ -0,0 +1,296 @@
+package codealpha_tasks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Column store for student grades. Instead of one Student object per row it
+// keeps a name id (int) and a score (byte) per row. Each distinct name is
+// stored once as UTF-8 bytes in a shared dictionary, found through an
+// open-addressing hash table, so no String is kept per row.
+//
+// A rank index groups row numbers by score with a counting sort. It is
+// rebuilt lazily after new rows arrive, in O(rows + 101), and then answers
+// top-K, rank and score-range queries without sorting.
+class GradeStore {
+    // Name dictionary
+    private byte[] nameBytes = new byte[1024];
+    private int nameBytesUsed;
+    private int[] nameOffsets = new int[65];  // name i is bytes [offsets[i], offsets[i + 1])
+    private int nameCount;
+    private int[] nameTable = newTable(128);  // name ids, -1 for empty slots
+    private int[] latestRowOfName = new int[64];
+
+    // Row columns
+    private int[] rowName = new int[64];
+    private byte[] rowScore = new byte[64];
+    private int[] previousRowSameName = new int[64];  // -1 ends the chain
+    private int size;
+
+    private final GradeStats stats = new GradeStats();
+
+    // Rank index: rows ordered by score (highest first), insertion order within a score
+    private int[] rowsByScore = new int[0];
+    private final int[] scoreStart = new int[GradeStats.MAX_SCORE + 2];
+    private boolean indexValid = true;
+
+    public int add(String name, int score) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        return add(bytes, 0, bytes.length, score);
+    }
+
+    // Adds a row whose name is given as UTF-8 bytes, as the CSV importer reads them
+    public int add(byte[] name, int offset, int length, int score) {
+        if (score < 0 || score > GradeStats.MAX_SCORE) {
+            throw new IllegalArgumentException("Score must be between 0 and 100: " + score);
+        }
+        int row = appendRow(name, offset, length, score);
+        stats.add(score);
+        return row;
+    }
+
+    // Appends every row of another store, keeping their order. Each of its
+    // distinct names is interned once; the rows are then copied column by
+    // column through the resulting id map.
+    public void addAll(GradeStore other) {
+        if (size == 0 && nameCount == 0) {
+            copyFrom(other);
+            return;
+        }
+        int[] nameMap = new int[other.nameCount];
+        for (int id = 0; id < other.nameCount; id++) {
+            int start = other.nameOffsets[id];
+            nameMap[id] = internName(other.nameBytes, start, other.nameOffsets[id + 1] - start);
+        }
+
+        ensureRowCapacity(size + other.size);
+        int offset = size;
+        System.arraycopy(other.rowScore, 0, rowScore, offset, other.size);
+        for (int row = 0; row < other.size; row++) {
+            int nameId = nameMap[other.rowName[row]];
+            int previous = other.previousRowSameName[row];
+            rowName[offset + row] = nameId;
+            // A name's first row in other continues this store's chain for it
+            previousRowSameName[offset + row] = previous != -1 ? previous + offset : latestRowOfName[nameId];
+        }
+        for (int id = 0; id < other.nameCount; id++) {
+            if (other.latestRowOfName[id] != -1) {
+                latestRowOfName[nameMap[id]] = other.latestRowOfName[id] + offset;
+            }
+        }
+        size += other.size;
+        stats.merge(other.stats);
+        indexValid = false;
+    }
+
+    // An empty store takes over a copy of the other's dictionary and columns as they are
+    private void copyFrom(GradeStore other) {
+        nameBytes = Arrays.copyOf(other.nameBytes, other.nameBytes.length);
+        nameBytesUsed = other.nameBytesUsed;
+        nameOffsets = Arrays.copyOf(other.nameOffsets, other.nameOffsets.length);
+        nameCount = other.nameCount;
+        nameTable = Arrays.copyOf(other.nameTable, other.nameTable.length);
+        latestRowOfName = Arrays.copyOf(other.latestRowOfName, other.latestRowOfName.length);
+        rowName = Arrays.copyOf(other.rowName, other.rowName.length);
+        rowScore = Arrays.copyOf(other.rowScore, other.rowScore.length);
+        previousRowSameName = Arrays.copyOf(other.previousRowSameName, other.previousRowSameName.length);
+        size = other.size;
+        stats.merge(other.stats);
+        indexValid = false;
+    }
+
+    private int appendRow(byte[] name, int offset, int length, int score) {
+        int nameId = internName(name, offset, length);
+        ensureRowCapacity(size + 1);
+        int row = size++;
+        rowName[row] = nameId;
+        rowScore[row] = (byte) score;
+        previousRowSameName[row] = latestRowOfName[nameId];
+        latestRowOfName[nameId] = row;
+        indexValid = false;
+        return row;
+    }
+
+    private void ensureRowCapacity(int capacity) {
+        if (capacity > rowName.length) {
+            int newCapacity = Math.max(capacity, Math.max(16, rowName.length * 2));
+            rowName = Arrays.copyOf(rowName, newCapacity);
+            rowScore = Arrays.copyOf(rowScore, newCapacity);
+            previousRowSameName = Arrays.copyOf(previousRowSameName, newCapacity);
+        }
+    }
+
+    // Releases spare capacity left by array growth, e.g. after a bulk import
+    public void trimToSize() {
+        nameBytes = Arrays.copyOf(nameBytes, nameBytesUsed);
+        nameOffsets = Arrays.copyOf(nameOffsets, nameCount + 1);
+        latestRowOfName = Arrays.copyOf(latestRowOfName, nameCount);
+        rowName = Arrays.copyOf(rowName, size);
+        rowScore = Arrays.copyOf(rowScore, size);
+        previousRowSameName = Arrays.copyOf(previousRowSameName, size);
+    }
+
+    public int size() { return size; }
+    public int getDistinctNameCount() { return nameCount; }
+    public GradeStats getStats() { return stats; }
+
+    public int getScore(int row) {
+        return rowScore[row];
+    }
+
+    public String getName(int row) {
+        int nameId = rowName[row];
+        int start = nameOffsets[nameId];
+        return new String(nameBytes, start, nameOffsets[nameId + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    // Rows of the k highest scores; ties keep insertion order
+    public int[] topK(int k) {
+        buildIndex();
+        return Arrays.copyOf(rowsByScore, Math.max(0, Math.min(k, size)));
+    }
+
+    // Competition rank (1 + number of students scoring higher) of the best
+    // row with this name, or -1 if no student has that name
+    public int rankOf(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int nameId = findName(bytes, 0, bytes.length);
+        if (nameId < 0) {
+            return -1;
+        }
+        int best = -1;
+        for (int row = latestRowOfName[nameId]; row != -1; row = previousRowSameName[row]) {
+            best = Math.max(best, rowScore[row]);
+        }
+        return rankOfScore(best);
+    }
+
+    public int rankOfScore(int score) {
+        buildIndex();
+        return scoreStart[GradeStats.MAX_SCORE - score] + 1;
+    }
+
+    // Rows with low <= score <= high, highest scores first
+    public int[] rowsInRange(int low, int high) {
+        low = Math.max(low, 0);
+        high = Math.min(high, GradeStats.MAX_SCORE);
+        if (low > high) {
+            return new int[0];
+        }
+        buildIndex();
+        return Arrays.copyOfRange(rowsByScore, scoreStart[GradeStats.MAX_SCORE - high],
+                scoreStart[GradeStats.MAX_SCORE - low + 1]);
+    }
+
+    public int countInRange(int low, int high) {
+        low = Math.max(low, 0);
+        high = Math.min(high, GradeStats.MAX_SCORE);
+        if (low > high) {
+            return 0;
+        }
+        buildIndex();
+        return scoreStart[GradeStats.MAX_SCORE - low + 1] - scoreStart[GradeStats.MAX_SCORE - high];
+    }
+
+    // Counting sort of row numbers by score, descending. Bucket b holds score 100 - b.
+    private void buildIndex() {
+        if (indexValid) {
+            return;
+        }
+        Arrays.fill(scoreStart, 0);
+        for (int row = 0; row < size; row++) {
+            scoreStart[GradeStats.MAX_SCORE - rowScore[row] + 1]++;
+        }
+        for (int bucket = 1; bucket < scoreStart.length; bucket++) {
+            scoreStart[bucket] += scoreStart[bucket - 1];
+        }
+        if (rowsByScore.length != size) {
+            rowsByScore = new int[size];
+        }
+        int[] next = Arrays.copyOf(scoreStart, scoreStart.length);
+        for (int row = 0; row < size; row++) {
+            rowsByScore[next[GradeStats.MAX_SCORE - rowScore[row]]++] = row;
+        }
+        indexValid = true;
+    }
+
+    private int internName(byte[] name, int offset, int length) {
+        int slot = findSlot(name, offset, length);
+        if (nameTable[slot] != -1) {
+            return nameTable[slot];
+        }
+
+        if (nameBytesUsed + length > nameBytes.length) {
+            nameBytes = Arrays.copyOf(nameBytes, Math.max(nameBytes.length * 2, nameBytesUsed + length));
+        }
+        System.arraycopy(name, offset, nameBytes, nameBytesUsed, length);
+        nameBytesUsed += length;
+        if (nameCount + 2 > nameOffsets.length) {
+            nameOffsets = Arrays.copyOf(nameOffsets, nameOffsets.length * 2);
+        }
+        if (nameCount == latestRowOfName.length) {
+            latestRowOfName = Arrays.copyOf(latestRowOfName, Math.max(16, nameCount * 2));
+        }
+        int nameId = nameCount++;
+        nameOffsets[nameCount] = nameBytesUsed;
+        latestRowOfName[nameId] = -1;
+        nameTable[slot] = nameId;
+
+        if (nameCount * 4L > nameTable.length * 3L) {
+            rehash();
+        }
+        return nameId;
+    }
+
+    private int findName(byte[] name, int offset, int length) {
+        return nameTable[findSlot(name, offset, length)];
+    }
+
+    // Slot holding this name, or the empty slot where it would go
+    private int findSlot(byte[] name, int offset, int length) {
+        int mask = nameTable.length - 1;
+        int slot = hash(name, offset, length) & mask;
+        while (true) {
+            int id = nameTable[slot];
+            if (id == -1 || nameEquals(id, name, offset, length)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean nameEquals(int id, byte[] name, int offset, int length) {
+        int start = nameOffsets[id];
+        return nameOffsets[id + 1] - start == length
+                && Arrays.equals(nameBytes, start, start + length, name, offset, offset + length);
+    }
+
+    private void rehash() {
+        int[] table = newTable(nameTable.length * 2);
+        int mask = table.length - 1;
+        for (int id = 0; id < nameCount; id++) {
+            int start = nameOffsets[id];
+            int slot = hash(nameBytes, start, nameOffsets[id + 1] - start) & mask;
+            while (table[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id;
+        }
+        nameTable = table;
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        // Spread the bits so similar names do not cluster under linear probing
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, -1);
+        return table;
+    }
+}
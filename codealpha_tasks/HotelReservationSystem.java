@@ -1,3 +1,5 @@
+package codealpha_tasks;
+
 import java.io.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -144,18 +146,28 @@ class HotelManagementSystem {
         }
     }
     
+    public void addRoom(Room room) {
+        rooms.add(room);
+    }
+    
+    public List<Room> getRooms() {
+        return rooms;
+    }
+    
     public void addCustomer(Customer customer) {
         customers.add(customer);
         saveCustomers();
     }
     
     public List<Room> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut) {
+        long start = Metrics.HOTEL_SEARCH.start();
         List<Room> availableRooms = new ArrayList<>();
         for (Room room : rooms) {
             if (room.isAvailable() && !isRoomBooked(room, checkIn, checkOut)) {
                 availableRooms.add(room);
             }
         }
+        Metrics.HOTEL_SEARCH.stop(start);
         return availableRooms;
     }
     
@@ -176,12 +188,14 @@ class HotelManagementSystem {
             return null;
         }
         
+        long start = Metrics.HOTEL_BOOKING.start();
         Booking booking = new Booking(nextBookingId++, customer, room, checkIn, checkOut);
         bookings.add(booking);
         room.setAvailable(false);
         
         saveBookings();
         saveRooms();
+        Metrics.HOTEL_BOOKING.stop(start);
         return booking;
     }
     
@@ -222,16 +236,20 @@ class HotelManagementSystem {
     private static final String CUSTOMERS_FILE = "customers.txt";
     
     private void saveRooms() {
+        long start = Metrics.HOTEL_FLUSH.start();
         try (PrintWriter writer = new PrintWriter(new FileWriter(ROOMS_FILE))) {
             for (Room room : rooms) {
                 writer.println(room.getRoomNumber() + "|" + room.getType() + "|" + room.isAvailable());
             }
         } catch (IOException e) {
             System.out.println("Error saving rooms: " + e.getMessage());
+            Metrics.HOTEL_FLUSH_ERRORS.increment();
         }
+        Metrics.HOTEL_FLUSH.stop(start);
     }
     
     private void saveBookings() {
+        long start = Metrics.HOTEL_FLUSH.start();
         try (PrintWriter writer = new PrintWriter(new FileWriter(BOOKINGS_FILE))) {
             for (Booking booking : bookings) {
                 DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -244,17 +262,22 @@ class HotelManagementSystem {
             }
         } catch (IOException e) {
             System.out.println("Error saving bookings: " + e.getMessage());
+            Metrics.HOTEL_FLUSH_ERRORS.increment();
         }
+        Metrics.HOTEL_FLUSH.stop(start);
     }
     
     private void saveCustomers() {
+        long start = Metrics.HOTEL_FLUSH.start();
         try (PrintWriter writer = new PrintWriter(new FileWriter(CUSTOMERS_FILE))) {
             for (Customer customer : customers) {
                 writer.println(customer.getName() + "|" + customer.getPhone() + "|" + customer.getEmail());
             }
         } catch (IOException e) {
             System.out.println("Error saving customers: " + e.getMessage());
+            Metrics.HOTEL_FLUSH_ERRORS.increment();
         }
+        Metrics.HOTEL_FLUSH.stop(start);
     }
     
     // Load methods can be implemented similarly for persistence
@@ -384,13 +407,13 @@ public class HotelReservationSystem {
     
     private static void listAllRooms() {
         System.out.println("\nAll Rooms:");
-        for (Room room : hotel.rooms) {
+        for (Room room : hotel.getRooms()) {
             System.out.println(room);
         }
     }
     
     private static Room findRoom(int roomNum) {
-        for (Room room : hotel.rooms) {
+        for (Room room : hotel.getRooms()) {
             if (room.getRoomNumber() == roomNum) {
                 return room;
             }
@@ -0,0 +1,195 @@
+package codealpha_tasks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free latency histogram with HDR-style log-linear buckets: every power
+// of two is split into 16 sub-buckets, so recorded values keep about 6%
+// precision from nanoseconds up to hours.
+//
+// Every call is counted exactly, but only about one call in [sampleEvery]
+// (a power of two) is timed, so very fast operations are not slowed down by
+// System.nanoTime. Each sample is weighted by the number of calls it stands
+// for, which keeps the percentiles unbiased while the first FULLY_TIMED
+// calls are all timed, so a short interactive session still gets real
+// numbers.
+//
+// Atomic instructions cost about as much as a whole nanosecond-scale
+// operation, so the first thread to use the histogram (the only one, in
+// the console apps) counts and picks samples in plain fields that only it
+// writes. Calls from any other thread go to a LongAdder and are sampled
+// with ThreadLocalRandom.
+public class LatencyHistogram implements LatencyHistogramMXBean {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final int FULLY_TIMED = 256;
+    // -Dcodealpha.metrics.off=true turns every histogram into a no-op, for A/B runs
+    private static final boolean ENABLED = !Boolean.getBoolean("codealpha.metrics.off");
+
+    private static final VarHandle OWNER;
+    private static final VarHandle OWNER_CALLS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            OWNER = lookup.findVarHandle(LatencyHistogram.class, "owner", Thread.class);
+            OWNER_CALLS = lookup.findVarHandle(LatencyHistogram.class, "ownerCalls", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String name;
+    private final int sampleEvery;
+    private final int sampleMask;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);  // weighted
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();               // weighted
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder sharedCalls = new LongAdder();
+
+    // Written only by the owner thread; ownerCalls is published with opaque stores
+    private volatile Thread owner;
+    private long ownerCalls;
+    private long ownerNextSample = 1;
+    private int ownerWeight;
+
+    public LatencyHistogram(String name, int sampleEvery) {
+        if (Integer.bitCount(sampleEvery) != 1) {
+            throw new IllegalArgumentException("sampleEvery must be a power of two: " + sampleEvery);
+        }
+        this.name = name;
+        this.sampleEvery = sampleEvery;
+        this.sampleMask = sampleEvery - 1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Counts the call and returns a start time if it is sampled, otherwise 0
+    public long start() {
+        if (!ENABLED) {
+            return 0;
+        }
+        Thread current = Thread.currentThread();
+        if (owner != current && !(owner == null && OWNER.compareAndSet(this, null, current))) {
+            return startShared();
+        }
+        long calls = ownerCalls + 1;
+        OWNER_CALLS.setOpaque(this, calls);
+        if (calls < ownerNextSample) {
+            return 0;
+        }
+        // Random gaps averaging sampleEvery, so periodic callers are not aliased
+        ownerWeight = samples.get() < FULLY_TIMED ? 1 : 1 + ThreadLocalRandom.current().nextInt(2 * sampleEvery - 1);
+        ownerNextSample = calls + ownerWeight;
+        return System.nanoTime();
+    }
+
+    private long startShared() {
+        sharedCalls.increment();
+        if (samples.get() >= FULLY_TIMED && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    // Records the latency if start() sampled the call
+    public void stop(long start) {
+        if (start == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        if (owner == Thread.currentThread()) {
+            addSample(nanos, ownerWeight);
+        } else {
+            addSample(nanos, samples.get() < FULLY_TIMED ? 1 : sampleEvery);
+        }
+    }
+
+    // Counts and records a call the caller timed itself
+    public void record(long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        sharedCalls.increment();
+        addSample(nanos, 1);
+    }
+
+    private void addSample(long nanos, int sampleWeight) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts.addAndGet(bucketOf(nanos), sampleWeight);
+        samples.incrementAndGet();
+        weight.addAndGet(sampleWeight);
+        totalNanos.addAndGet(nanos * sampleWeight);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long getCalls() { return (long) OWNER_CALLS.getOpaque(this) + sharedCalls.sum(); }
+    public long getSamples() { return samples.get(); }
+    public double getMaxMicros() { return maxNanos.get() / 1e3; }
+    public double getP50Micros() { return getPercentileNanos(50) / 1e3; }
+    public double getP99Micros() { return getPercentileNanos(99) / 1e3; }
+    public double getP999Micros() { return getPercentileNanos(99.9) / 1e3; }
+
+    public double getMeanMicros() {
+        long n = weight.get();
+        return n == 0 ? 0 : totalNanos.get() / 1e3 / n;
+    }
+
+    // Upper bound of the bucket holding the given percentile (0-100)
+    public long getPercentileNanos(double percentile) {
+        long n = weight.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-26s calls=%d samples=%d mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                name, getCalls(), getSamples(), getMeanMicros(), getP50Micros(),
+                getP99Micros(), getP999Micros(), getMaxMicros());
+    }
+
+    // Values below 16 get their own bucket; above that, 16 buckets per power of two
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
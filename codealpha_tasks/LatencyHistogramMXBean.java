@@ -0,0 +1,12 @@
+package codealpha_tasks;
+
+// JMX view of a LatencyHistogram, registered as codealpha:type=Latency,name=<metric>
+public interface LatencyHistogramMXBean {
+    long getCalls();
+    long getSamples();
+    double getMeanMicros();
+    double getP50Micros();
+    double getP99Micros();
+    double getP999Micros();
+    double getMaxMicros();
+}
@@ -0,0 +1,134 @@
+package codealpha_tasks;
+
+import javax.management.*;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+// Shared performance metrics for all the applications. Latencies go into
+// sampled LatencyHistograms, events into LongAdder counters. Everything is
+// published over JMX (domain "codealpha") and can also be written to a text
+// file periodically:
+//   -Dcodealpha.metrics.dump=<seconds>   enable the dump
+//   -Dcodealpha.metrics.file=<path>      target file, default metrics.txt
+//   -Dcodealpha.metrics.off=true         record nothing, for A/B benchmarks
+public final class Metrics implements MetricsMXBean {
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentSkipListMap<>();
+    private static final Metrics INSTANCE = new Metrics();
+
+    // Sampling rates are chosen from MetricsBench and the StockBench A/B
+    // runs: an untimed call costs about 1.6 ns on the thread that owns the
+    // histogram and a timed one about 100 ns. Millisecond paths time every
+    // call, microsecond paths 1 in 64 and nanosecond paths 1 in 1024.
+    public static final LatencyHistogram HOTEL_SEARCH = histogram("hotel.search", 64);
+    public static final LatencyHistogram HOTEL_BOOKING = histogram("hotel.booking", 1);
+    public static final LatencyHistogram HOTEL_FLUSH = histogram("hotel.persistence.flush", 1);
+    public static final LongAdder HOTEL_FLUSH_ERRORS = counter("hotel.persistence.errors");
+    public static final LatencyHistogram STOCK_TRADE = histogram("stock.trade", 1024);
+    public static final LatencyHistogram STOCK_VALUATION = histogram("stock.valuation", 1024);
+    public static final LatencyHistogram STOCK_FLUSH = histogram("stock.persistence.flush", 1);
+    public static final LongAdder STOCK_FLUSH_ERRORS = counter("stock.persistence.errors");
+    public static final LatencyHistogram BOT_REPLY = histogram("bot.reply", 16);
+
+    static {
+        register("codealpha:type=Metrics", INSTANCE);
+        String period = System.getProperty("codealpha.metrics.dump");
+        if (period != null) {
+            long seconds = parsePeriod(period);
+            if (seconds > 0) {
+                startDump(seconds, System.getProperty("codealpha.metrics.file", "metrics.txt"));
+            } else {
+                System.err.println("Ignoring codealpha.metrics.dump=" + period
+                        + ": expected a whole number of seconds greater than 0");
+            }
+        }
+    }
+
+    private Metrics() {
+    }
+
+    public static synchronized LatencyHistogram histogram(String name, int sampleEvery) {
+        LatencyHistogram histogram = HISTOGRAMS.get(name);
+        if (histogram == null) {
+            histogram = new LatencyHistogram(name, sampleEvery);
+            HISTOGRAMS.put(name, histogram);
+            register("codealpha:type=Latency,name=" + name, histogram);
+        }
+        return histogram;
+    }
+
+    public static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# codealpha metrics at ").append(LocalDateTime.now()).append(System.lineSeparator());
+        for (LatencyHistogram histogram : HISTOGRAMS.values()) {
+            sb.append(histogram).append(System.lineSeparator());
+        }
+        for (Map.Entry<String, LongAdder> counter : COUNTERS.entrySet()) {
+            sb.append(String.format("%-26s count=%d", counter.getKey(), counter.getValue().sum()))
+                    .append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    // Seconds between dumps, or -1 if the value is not a positive number
+    private static long parsePeriod(String value) {
+        try {
+            return Math.max(-1, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Rewrites the file with a fresh report every [periodSeconds]
+    public static void startDump(long periodSeconds, String file) {
+        if (periodSeconds <= 0) {
+            throw new IllegalArgumentException("Dump period must be positive: " + periodSeconds);
+        }
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> {
+            try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+                writer.print(report());
+            } catch (IOException e) {
+                System.err.println("Error writing metrics: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : COUNTERS.entrySet()) {
+            values.put(counter.getKey(), counter.getValue().sum());
+        }
+        return values;
+    }
+
+    @Override
+    public String getReport() {
+        return report();
+    }
+
+    private static void register(String objectName, Object bean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(bean, name);
+            }
+        } catch (JMException e) {
+            System.err.println("Error registering metrics bean " + objectName + ": " + e.getMessage());
+        }
+    }
+}
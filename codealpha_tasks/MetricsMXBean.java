@@ -0,0 +1,9 @@
+package codealpha_tasks;
+
+import java.util.Map;
+
+// JMX view of all counters plus the full text report, registered as codealpha:type=Metrics
+public interface MetricsMXBean {
+    Map<String, Long> getCounters();
+    String getReport();
+}
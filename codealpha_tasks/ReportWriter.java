@@ -0,0 +1,131 @@
+package codealpha_tasks;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+// Writes the student table without String.format: each row is assembled in
+// a reusable char buffer and handed to one large buffered writer, which is
+// only flushed at page ends or when the report is done. The columns match
+// the old "%-5d %-20s %-5d" layout.
+class ReportWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+    private final boolean closeTarget;
+    private char[] row = new char[64];
+    private int length;
+
+    // For console output; System.out itself is flushed but never closed
+    public ReportWriter(PrintStream console) {
+        this(new OutputStreamWriter(console), false);
+    }
+
+    public ReportWriter(String file) throws IOException {
+        this(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), true);
+    }
+
+    private ReportWriter(Writer target, boolean closeTarget) {
+        this.out = new BufferedWriter(target, BUFFER_SIZE);
+        this.closeTarget = closeTarget;
+    }
+
+    public void writeHeader(String first) throws IOException {
+        length = 0;
+        appendPadded(first, 5);
+        append(' ');
+        appendPadded("Name", 20);
+        append(' ');
+        appendPadded("Score", 5);
+        endRow();
+    }
+
+    public void writeRow(long number, String name, int score) throws IOException {
+        length = 0;
+        int start = length;
+        appendNumber(number);
+        pad(start, 5);
+        append(' ');
+        appendPadded(name, 20);
+        append(' ');
+        start = length;
+        appendNumber(score);
+        pad(start, 5);
+        endRow();
+    }
+
+    public void writeLine(String line) throws IOException {
+        out.write(line);
+        out.write(System.lineSeparator());
+    }
+
+    // Writes rows [from, to) of the table in store order
+    public void writeRows(GradeStore students, int from, int to) throws IOException {
+        for (int row = from; row < to; row++) {
+            writeRow(row + 1, students.getName(row), students.getScore(row));
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closeTarget) {
+            out.close();
+        } else {
+            out.flush();
+        }
+    }
+
+    private void endRow() throws IOException {
+        out.write(row, 0, length);
+        out.write(System.lineSeparator());
+    }
+
+    private void appendPadded(String text, int width) {
+        int start = length;
+        ensureCapacity(length + text.length());
+        text.getChars(0, text.length(), row, length);
+        length += text.length();
+        pad(start, width);
+    }
+
+    // Left-aligned like %-Nd / %-Ns: pad with spaces, never truncate
+    private void pad(int start, int width) {
+        while (length - start < width) {
+            append(' ');
+        }
+    }
+
+    private void appendNumber(long value) {
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        int digitsStart = length;
+        do {
+            append((char) ('0' + value % 10));
+            value /= 10;
+        } while (value > 0);
+        // Digits went in least significant first
+        for (int i = digitsStart, j = length - 1; i < j; i++, j--) {
+            char c = row[i];
+            row[i] = row[j];
+            row[j] = c;
+        }
+    }
+
+    private void append(char c) {
+        ensureCapacity(length + 1);
+        row[length++] = c;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > row.length) {
+            char[] bigger = new char[Math.max(capacity, row.length * 2)];
+            System.arraycopy(row, 0, bigger, 0, length);
+            row = bigger;
+        }
+    }
+}
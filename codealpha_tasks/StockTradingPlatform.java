@@ -1,3 +1,5 @@
+package codealpha_tasks;
+
 import java.util.*;
 import java.io.*;
 
@@ -94,10 +96,12 @@ class User {
     public List<PortfolioItem> getPortfolio() { return portfolio; }
     public List<Transaction> getTransactions() { return transactions; }
     public double getTotalValue() {
+        long start = Metrics.STOCK_VALUATION.start();
         double total = cash;
         for (PortfolioItem item : portfolio) {
             total += item.getCurrentValue();
         }
+        Metrics.STOCK_VALUATION.stop(start);
         return total;
     }
 
@@ -105,6 +109,7 @@ class User {
         double cost = stock.getPrice() * quantity;
         if (cost > cash) return false;
 
+        long start = Metrics.STOCK_TRADE.start();
         cash -= cost;
         PortfolioItem item = portfolioMap.get(stock.getSymbol());
         if (item == null) {
@@ -115,6 +120,7 @@ class User {
             item.addShares(quantity, stock.getPrice());
         }
         transactions.add(new Transaction("BUY", stock, quantity, stock.getPrice()));
+        Metrics.STOCK_TRADE.stop(start);
         return true;
     }
 
@@ -122,6 +128,7 @@ class User {
         PortfolioItem item = portfolioMap.get(stock.getSymbol());
         if (item == null || item.getQuantity() < quantity) return false;
 
+        long start = Metrics.STOCK_TRADE.start();
         double revenue = stock.getPrice() * quantity;
         cash += revenue;
         item.sellShares(quantity);
@@ -130,6 +137,7 @@ class User {
             portfolioMap.remove(stock.getSymbol());
         }
         transactions.add(new Transaction("SELL", stock, quantity, stock.getPrice()));
+        Metrics.STOCK_TRADE.stop(start);
         return true;
     }
 }
@@ -279,11 +287,14 @@ public class StockTradingPlatform {
     }
 
     private static void savePortfolio() {
+        long start = Metrics.STOCK_FLUSH.start();
         try (PrintWriter writer = new PrintWriter(new FileWriter(FILENAME))) {
             writer.println(currentUser.getName() + " " + currentUser.getCash());
             // Save portfolio and transactions
         } catch (IOException e) {
             System.out.println("Save failed.");
+            Metrics.STOCK_FLUSH_ERRORS.increment();
         }
+        Metrics.STOCK_FLUSH.stop(start);
     }
 }
\ No newline at end of file
@@ -1,34 +1,26 @@
-import java.util.ArrayList;
-import java.util.Scanner;
-
-class Student {
-    private String name;
-    private int score; // 0 - 100
-
-    public Student(String name, int score) {
-        this.name = name;
-        this.score = score;
-    }
+package codealpha_tasks;
 
-    public String getName() {
-        return name;
-    }
-    public int getScore() {
-        return score;
-    }
-}
+import java.io.IOException;
+import java.util.Scanner;
 
 public class StudentGradeManager {
+    private static final int PAGE_SIZE = 50;
+
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
-        ArrayList<Student> students = new ArrayList<>();
+        GradeStore students = new GradeStore();
 
         int choice;
         do {
             System.out.println("\n=== Student Grade Manager ===");
             System.out.println("1. Add student");
             System.out.println("2. Show summary report");
-            System.out.println("3. Exit");
+            System.out.println("3. Import students from CSV file");
+            System.out.println("4. Show top students");
+            System.out.println("5. Find a student's rank");
+            System.out.println("6. List students in a score range");
+            System.out.println("7. Export report to file");
+            System.out.println("8. Exit");
             System.out.print("Enter your choice: ");
 
             while (!scanner.hasNextInt()) {
@@ -43,20 +35,35 @@ public class StudentGradeManager {
                     addStudent(scanner, students);
                     break;
                 case 2:
-                    showSummary(students);
+                    showSummary(scanner, students);
                     break;
                 case 3:
+                    importStudents(scanner, students);
+                    break;
+                case 4:
+                    showTopStudents(scanner, students);
+                    break;
+                case 5:
+                    findRank(scanner, students);
+                    break;
+                case 6:
+                    showScoreRange(scanner, students);
+                    break;
+                case 7:
+                    exportReport(scanner, students);
+                    break;
+                case 8:
                     System.out.println("Exiting program...");
                     break;
                 default:
                     System.out.println("Invalid choice. Try again.");
             }
-        } while (choice != 3);
+        } while (choice != 8);
 
         scanner.close();
     }
 
-    private static void addStudent(Scanner scanner, ArrayList<Student> students) {
+    private static void addStudent(Scanner scanner, GradeStore students) {
         System.out.print("Enter student name: ");
         String name = scanner.nextLine();
 
@@ -76,56 +83,165 @@ public class StudentGradeManager {
             }
         }
 
-        students.add(new Student(name, score));
+        students.add(name, score);
         System.out.println("Student added successfully.");
     }
 
-    private static void showSummary(ArrayList<Student> students) {
-        if (students.isEmpty()) {
-            System.out.println("No students available.");
+    private static void importStudents(Scanner scanner, GradeStore students) {
+        System.out.print("Enter CSV file path (name,score per line): ");
+        String path = scanner.nextLine().trim();
+
+        long start = System.nanoTime();
+        GradeImporter.Result result;
+        try {
+            result = GradeImporter.importFile(path, students);
+            students.trimToSize();
+        } catch (IOException e) {
+            System.out.println("Error reading file: " + e.getMessage());
+            System.out.println("No students were imported.");
             return;
         }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        if (result.header != null) {
+            System.out.println("Skipped the first line as a header: " + result.header);
+        }
+        System.out.println("Imported " + result.importedRows + " students in " + millis + " ms.");
+        if (result.invalidRows > 0) {
+            System.out.println("Skipped " + result.invalidRows + " invalid rows, for example:");
+            for (String error : result.errors) {
+                System.out.println("  " + error);
+            }
+        }
+    }
 
-        int total = 0;
-        int highest = Integer.MIN_VALUE;
-        int lowest = Integer.MAX_VALUE;
-        Student highestStudent = null;
-        Student lowestStudent = null;
+    private static void showTopStudents(Scanner scanner, GradeStore students) {
+        int k = readInt(scanner, "How many students? ");
+        printRows(scanner, students, students.topK(k));
+    }
 
-        for (Student s : students) {
-            int score = s.getScore();
-            total += score;
+    private static void findRank(Scanner scanner, GradeStore students) {
+        System.out.print("Enter student name: ");
+        String name = scanner.nextLine();
+        int rank = students.rankOf(name);
+        if (rank < 0) {
+            System.out.println("No student named " + name + ".");
+        } else {
+            System.out.println(name + " is ranked " + rank + " of " + students.size() + ".");
+        }
+    }
 
-            if (score > highest) {
-                highest = score;
-                highestStudent = s;
+    private static void showScoreRange(Scanner scanner, GradeStore students) {
+        int low = readInt(scanner, "Lowest score: ");
+        int high = readInt(scanner, "Highest score: ");
+        System.out.println(students.countInRange(low, high) + " students scored between " + low + " and " + high + ".");
+        printRows(scanner, students, students.rowsInRange(low, high));
+    }
+
+    // Rank table of the given rows, one page at a time like showSummary
+    private static void printRows(Scanner scanner, GradeStore students, int[] rows) {
+        try {
+            ReportWriter report = new ReportWriter(System.out);
+            report.writeHeader("Rank");
+            for (int from = 0; from < rows.length; from += PAGE_SIZE) {
+                int to = Math.min(rows.length, from + PAGE_SIZE);
+                for (int i = from; i < to; i++) {
+                    int score = students.getScore(rows[i]);
+                    report.writeRow(students.rankOfScore(score), students.getName(rows[i]), score);
+                }
+                report.flush();
+                if (to < rows.length && !nextPage(scanner, from, to, rows.length)) {
+                    break;
+                }
             }
-            if (score < lowest) {
-                lowest = score;
-                lowestStudent = s;
+            report.close();
+        } catch (IOException e) {
+            System.out.println("Error printing report: " + e.getMessage());
+        }
+    }
+
+    private static int readInt(Scanner scanner, String prompt) {
+        System.out.print(prompt);
+        while (!scanner.hasNextInt()) {
+            System.out.print("Please enter a valid number: ");
+            scanner.next(); // discard invalid input
+        }
+        int value = scanner.nextInt();
+        scanner.nextLine(); // consume newline
+        return value;
+    }
+
+    private static void showSummary(Scanner scanner, GradeStore students) {
+        GradeStats stats = students.getStats();
+        if (stats.getCount() == 0) {
+            System.out.println("No students available.");
+            return;
+        }
+
+        try {
+            ReportWriter report = new ReportWriter(System.out);
+            writeSummary(report, students);
+
+            // Table of all students, one page at a time
+            report.writeLine("");
+            report.writeLine("All students:");
+            report.writeHeader("No.");
+            int total = students.size();
+            for (int from = 0; from < total; from += PAGE_SIZE) {
+                int to = Math.min(total, from + PAGE_SIZE);
+                report.writeRows(students, from, to);
+                report.flush();
+                if (to < total && !nextPage(scanner, from, to, total)) {
+                    break;
+                }
             }
+            report.close();
+        } catch (IOException e) {
+            System.out.println("Error printing report: " + e.getMessage());
         }
+    }
 
-        double average = (double) total / students.size();
-
-        // Top summary
-        System.out.println("\n--- Summary Report ---");
-        System.out.println("Number of students: " + students.size());
-        System.out.printf("Average score: %.2f%n", average);
-        System.out.println("Highest score: " + highest + " (Student: " + highestStudent.getName() + ")");
-        System.out.println("Lowest score: " + lowest + " (Student: " + lowestStudent.getName() + ")");
-
-        // Table of all students
-        System.out.println("\nAll students:");
-        System.out.printf("%-5s %-20s %-5s%n", "No.", "Name", "Score");
-        int index = 1;
-        for (Student s : students) {
-            System.out.printf("%-5d %-20s %-5d%n",
-                    index++, s.getName(), s.getScore());
+    // Asks whether to show the page after rows [from, to); false stops the listing
+    private static boolean nextPage(Scanner scanner, int from, int to, int total) {
+        System.out.print("-- Rows " + (from + 1) + "-" + to + " of " + total
+                + ". Press Enter for more, q to stop: ");
+        return scanner.hasNextLine() && !scanner.nextLine().trim().equalsIgnoreCase("q");
+    }
+
+    private static void exportReport(Scanner scanner, GradeStore students) {
+        if (students.size() == 0) {
+            System.out.println("No students available.");
+            return;
+        }
+        System.out.print("Enter output file path: ");
+        String path = scanner.nextLine().trim();
+
+        long start = System.nanoTime();
+        try (ReportWriter report = new ReportWriter(path)) {
+            writeSummary(report, students);
+            report.writeLine("");
+            report.writeLine("All students:");
+            report.writeHeader("No.");
+            report.writeRows(students, 0, students.size());
+        } catch (IOException e) {
+            System.out.println("Error saving report: " + e.getMessage());
+            return;
         }
-        System.out.println("\n--- Summary ---");
-        System.out.printf("Average score: %.2f%n", average);
-        System.out.println("Highest score: " + highest + " (Student: " + highestStudent.getName() + ")");
-        System.out.println("Lowest score: " + lowest + " (Student: " + lowestStudent.getName() + ")");
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Report with " + students.size() + " students saved to " + path + " in " + millis + " ms.");
+    }
+
+    static void writeSummary(ReportWriter report, GradeStore students) throws IOException {
+        GradeStats stats = students.getStats();
+        report.writeLine("");
+        report.writeLine("--- Summary Report ---");
+        report.writeLine("Number of students: " + stats.getCount());
+        report.writeLine(String.format("Average score: %.2f", stats.getAverage()));
+        report.writeLine(String.format("Median score: %.1f", stats.getMedian()));
+        report.writeLine(String.format("Standard deviation: %.2f", stats.getStandardDeviation()));
+        report.writeLine("25th / 75th / 90th percentile: " + stats.getPercentile(25) + " / "
+                + stats.getPercentile(75) + " / " + stats.getPercentile(90));
+        report.writeLine("Highest score: " + stats.getHighest() + " (Student: " + students.getName((int) stats.getHighestRow()) + ")");
+        report.writeLine("Lowest score: " + stats.getLowest() + " (Student: " + students.getName((int) stats.getLowestRow()) + ")");
     }
 }
\ No newline at end of file